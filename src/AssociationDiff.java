@@ -0,0 +1,299 @@
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Describes the student-professor associations that were added and removed between two snapshots.
+ */
+public final class AssociationDiff {
+
+    /**
+     * Minimum number of edge keys a partition should cover before the comparison is split across threads
+     */
+    private static final int MIN_PARTITION_SIZE = 1 << 16;
+
+    /**
+     * Mask that keeps only the student ID bits of an edge key
+     */
+    private static final long STUDENT_ID_MASK = 0xFFFFFFFF00000000L;
+
+    /**
+     * Sorted edge keys that are present in the current snapshot but not in the previous snapshot
+     */
+    private final long[] addedEdgeKeys;
+
+    /**
+     * Sorted edge keys that are present in the previous snapshot but not in the current snapshot
+     */
+    private final long[] removedEdgeKeys;
+
+    /**
+     * Creates a diff using the given added and removed edge keys.
+     *
+     * @param addedEdgeKeys   Sorted edge keys that were added
+     * @param removedEdgeKeys Sorted edge keys that were removed
+     */
+    private AssociationDiff(long[] addedEdgeKeys, long[] removedEdgeKeys) {
+        this.addedEdgeKeys = addedEdgeKeys;
+        this.removedEdgeKeys = removedEdgeKeys;
+    }
+
+    /**
+     * Compares the previous snapshot with the current snapshot and returns the associations
+     * that were added and removed. Large snapshots are split into student ID ranges that are merged in parallel.
+     *
+     * @param previous Snapshot taken from the earlier build
+     * @param current  Snapshot taken from the later build
+     */
+    public static AssociationDiff compare(AssociationSnapshot previous, AssociationSnapshot current) {
+
+        // Run a null check on the snapshots
+        if (previous == null || current == null) {
+            throw new IllegalArgumentException("Cannot compare a null association snapshot");
+        }
+
+        // Size the partitions from the larger snapshot so that each one is worth handing to a thread
+        int largerSize = Math.max(previous.size(), current.size());
+        int partitionCount = Math.max(1, Math.min(
+                Runtime.getRuntime().availableProcessors() * 4,
+                largerSize / MIN_PARTITION_SIZE));
+
+        return compare(previous, current, partitionCount);
+    }
+
+    /**
+     * Compares the previous snapshot with the current snapshot using at most the given number of partitions.
+     * Note: this is package-private so that checks can run the sequential and partitioned paths on the same input.
+     *
+     * @param previous       Snapshot taken from the earlier build
+     * @param current        Snapshot taken from the later build
+     * @param partitionCount Maximum number of student ID ranges to merge in parallel
+     */
+    static AssociationDiff compare(AssociationSnapshot previous, AssociationSnapshot current, int partitionCount) {
+
+        // Run a null check on the snapshots
+        if (previous == null || current == null) {
+            throw new IllegalArgumentException("Cannot compare a null association snapshot");
+        }
+
+        // Run a range check on the partition count
+        if (partitionCount < 1) {
+            throw new IllegalArgumentException("Cannot compare association snapshots using fewer than one partition");
+        }
+
+        long[] previousKeys = previous.getEdgeKeys();
+        long[] currentKeys = current.getEdgeKeys();
+
+        // Pick split points from the larger snapshot so that each partition covers a similar number of edges
+        long[] pivotSource = previousKeys.length >= currentKeys.length ? previousKeys : currentKeys;
+
+        // Small snapshots are not worth handing to other threads, and there cannot be more partitions than edges
+        if (partitionCount == 1 || pivotSource.length <= 1) {
+            Partition partition = merge(previousKeys, 0, previousKeys.length, currentKeys, 0, currentKeys.length);
+            return new AssociationDiff(
+                    Arrays.copyOf(partition.added, partition.addedCount),
+                    Arrays.copyOf(partition.removed, partition.removedCount));
+        }
+
+        // Each pivot is snapped down to the first edge key of its student, so every partition covers
+        // whole students; pivots that snap onto an earlier one are dropped
+        int[] previousBounds = new int[partitionCount + 1];
+        int[] currentBounds = new int[partitionCount + 1];
+        int rangeCount = 1;
+        long lastPivot = Long.MIN_VALUE;
+        for (int i = 1; i < partitionCount; i++) {
+            long pivot = pivotSource[(int) ((long) pivotSource.length * i / partitionCount)] & STUDENT_ID_MASK;
+            if (pivot <= lastPivot) {
+                continue;
+            }
+            lastPivot = pivot;
+            previousBounds[rangeCount] = lowerBound(previousKeys, pivot);
+            currentBounds[rangeCount] = lowerBound(currentKeys, pivot);
+            rangeCount++;
+        }
+        previousBounds[rangeCount] = previousKeys.length;
+        currentBounds[rangeCount] = currentKeys.length;
+
+        // Merge each student ID range in parallel; the ranges are returned in key order
+        List<Partition> partitions = IntStream.range(0, rangeCount)
+                .parallel()
+                .mapToObj(i -> merge(
+                        previousKeys, previousBounds[i], previousBounds[i + 1],
+                        currentKeys, currentBounds[i], currentBounds[i + 1]))
+                .toList();
+
+        // Stitch the per-partition results together into single sorted arrays
+        long[] added = new long[partitions.stream().mapToInt(p -> p.addedCount).sum()];
+        long[] removed = new long[partitions.stream().mapToInt(p -> p.removedCount).sum()];
+        int addedIndex = 0;
+        int removedIndex = 0;
+        for (Partition partition : partitions) {
+            System.arraycopy(partition.added, 0, added, addedIndex, partition.addedCount);
+            System.arraycopy(partition.removed, 0, removed, removedIndex, partition.removedCount);
+            addedIndex += partition.addedCount;
+            removedIndex += partition.removedCount;
+        }
+
+        return new AssociationDiff(added, removed);
+    }
+
+    /**
+     * Merges the given ranges of the previous and current edge keys in a single linear pass.
+     *
+     * @param previousKeys  Sorted edge keys from the previous snapshot
+     * @param previousStart First index (inclusive) of the previous range
+     * @param previousEnd   Last index (exclusive) of the previous range
+     * @param currentKeys   Sorted edge keys from the current snapshot
+     * @param currentStart  First index (inclusive) of the current range
+     * @param currentEnd    Last index (exclusive) of the current range
+     */
+    private static Partition merge(long[] previousKeys, int previousStart, int previousEnd,
+                                   long[] currentKeys, int currentStart, int currentEnd) {
+
+        Partition partition = new Partition();
+        int p = previousStart;
+        int c = currentStart;
+
+        // Walk both ranges together; keys found on only one side were either added or removed
+        while (p < previousEnd && c < currentEnd) {
+            long previousKey = previousKeys[p];
+            long currentKey = currentKeys[c];
+            if (previousKey == currentKey) {
+                p++;
+                c++;
+            } else if (previousKey < currentKey) {
+                partition.addRemoved(previousKey);
+                p++;
+            } else {
+                partition.addAdded(currentKey);
+                c++;
+            }
+        }
+
+        // Whatever is left over on either side has no counterpart on the other side
+        while (p < previousEnd) {
+            partition.addRemoved(previousKeys[p++]);
+        }
+        while (c < currentEnd) {
+            partition.addAdded(currentKeys[c++]);
+        }
+
+        return partition;
+    }
+
+    /**
+     * Returns the index of the first edge key that is greater than or equal to the given key.
+     *
+     * @param edgeKeys Sorted, distinct edge keys
+     * @param key      Edge key to search for
+     */
+    private static int lowerBound(long[] edgeKeys, long key) {
+        int index = Arrays.binarySearch(edgeKeys, key);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Returns the number of associations that were added.
+     */
+    public int getAddedCount() {
+        return addedEdgeKeys.length;
+    }
+
+    /**
+     * Returns the number of associations that were removed.
+     */
+    public int getRemovedCount() {
+        return removedEdgeKeys.length;
+    }
+
+    /**
+     * Returns a copy of the sorted edge keys that were added.
+     * Use {@link AssociationSnapshot#getStudentId(long)} and
+     * {@link AssociationSnapshot#getProfessorId(long)} to unpack each key.
+     */
+    public long[] getAddedEdgeKeys() {
+        return addedEdgeKeys.clone();
+    }
+
+    /**
+     * Returns a copy of the sorted edge keys that were removed.
+     * Use {@link AssociationSnapshot#getStudentId(long)} and
+     * {@link AssociationSnapshot#getProfessorId(long)} to unpack each key.
+     */
+    public long[] getRemovedEdgeKeys() {
+        return removedEdgeKeys.clone();
+    }
+
+    /**
+     * Returns true if no associations were added or removed, otherwise false.
+     */
+    public boolean isEmpty() {
+        return addedEdgeKeys.length == 0 && removedEdgeKeys.length == 0;
+    }
+
+    /**
+     * Returns a string representation of the diff
+     */
+    @Override
+    public String toString() {
+        return "AssociationDiff{" +
+                "added=" + addedEdgeKeys.length +
+                ", removed=" + removedEdgeKeys.length +
+                '}';
+    }
+
+    /**
+     * Holds the added and removed edge keys found while merging a single ID range.
+     */
+    private static final class Partition {
+
+        /**
+         * Initial capacity of the added and removed buffers
+         */
+        private static final int INITIAL_CAPACITY = 16;
+
+        /**
+         * Buffer of added edge keys; only the first addedCount entries are valid
+         */
+        private long[] added = new long[INITIAL_CAPACITY];
+
+        /**
+         * Buffer of removed edge keys; only the first removedCount entries are valid
+         */
+        private long[] removed = new long[INITIAL_CAPACITY];
+
+        /**
+         * Number of added edge keys written to the buffer
+         */
+        private int addedCount;
+
+        /**
+         * Number of removed edge keys written to the buffer
+         */
+        private int removedCount;
+
+        /**
+         * Appends an added edge key, growing the buffer when it is full.
+         *
+         * @param edgeKey Edge key that was added
+         */
+        private void addAdded(long edgeKey) {
+            if (addedCount == added.length) {
+                added = Arrays.copyOf(added, added.length * 2);
+            }
+            added[addedCount++] = edgeKey;
+        }
+
+        /**
+         * Appends a removed edge key, growing the buffer when it is full.
+         *
+         * @param edgeKey Edge key that was removed
+         */
+        private void addRemoved(long edgeKey) {
+            if (removedCount == removed.length) {
+                removed = Arrays.copyOf(removed, removed.length * 2);
+            }
+            removed[removedCount++] = edgeKey;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+/**
+ * Console check for {@link AssociationDiff}. Runs the sequential and partitioned comparison paths on the same
+ * randomized snapshots and verifies that they agree with each other and with a simple set-based reference.
+ */
+public class AssociationDiffCheck {
+
+    /**
+     * Number of randomized trials to run
+     */
+    private static final int TRIAL_COUNT = 30;
+
+    /**
+     * Largest snapshot (in edge keys) created for a randomized trial
+     */
+    private static final int MAX_TRIAL_SIZE = 600_000;
+
+    /**
+     * Largest snapshot (in edge keys) that is also verified against the set-based reference
+     */
+    private static final int MAX_REFERENCE_SIZE = 100_000;
+
+    /**
+     * Partition counts that are compared against the sequential path
+     */
+    private static final int[] PARTITION_COUNTS = {2, 7, 64};
+
+    /**
+     * Private constructor to prevent instantiation
+     */
+    private AssociationDiffCheck() {
+        // No processing
+    }
+
+    /**
+     * Entry point for the association diff check.
+     *
+     * @param args Optional edge count; when given, two snapshots of that size are also diffed and timed.
+     */
+    public static void main(String[] args) {
+
+        // Cover the edge cases that randomized trials are unlikely to produce
+        checkEdgeCases();
+
+        // Run randomized trials with a fixed seed so that any failure can be reproduced
+        Random random = new Random(26);
+        for (int trial = 0; trial < TRIAL_COUNT; trial++) {
+            int size = random.nextInt(MAX_TRIAL_SIZE + 1);
+            long[] previousKeys = createEdgeKeys(random, size, 1 + random.nextInt(size / 4 + 1));
+            long[] currentKeys = mutateEdgeKeys(random, previousKeys, random.nextInt(10));
+            checkSnapshots(AssociationSnapshot.fromEdgeKeys(previousKeys), AssociationSnapshot.fromEdgeKeys(currentKeys));
+        }
+
+        System.out.println("Association diff check passed " + TRIAL_COUNT + " randomized trials");
+
+        // Optionally time a diff between two large snapshots
+        if (args.length > 0) {
+            runBenchmark(Integer.parseInt(args[0]));
+        }
+    }
+
+    /**
+     * Checks empty, identical, disjoint, and single-student snapshots.
+     */
+    private static void checkEdgeCases() {
+        Random random = new Random(1);
+        AssociationSnapshot empty = AssociationSnapshot.fromEdgeKeys(new long[0]);
+        AssociationSnapshot large = AssociationSnapshot.fromEdgeKeys(createEdgeKeys(random, 200_000, 5_000));
+        AssociationSnapshot other = AssociationSnapshot.fromEdgeKeys(createEdgeKeys(random, 200_000, 5_000));
+
+        // A single student holding every edge collapses all pivots onto one student ID range
+        long[] singleStudentKeys = new long[200_000];
+        for (int i = 0; i < singleStudentKeys.length; i++) {
+            singleStudentKeys[i] = AssociationSnapshot.toEdgeKey(7, random.nextInt());
+        }
+        AssociationSnapshot singleStudent = AssociationSnapshot.fromEdgeKeys(singleStudentKeys);
+
+        checkSnapshots(empty, empty);
+        checkSnapshots(empty, large);
+        checkSnapshots(large, empty);
+        checkSnapshots(large, large);
+        checkSnapshots(large, other);
+        checkSnapshots(singleStudent, large);
+        checkSnapshots(large, singleStudent);
+    }
+
+    /**
+     * Diffs the given snapshots sequentially and with several partition counts, and fails if any result differs.
+     * Small snapshots are also verified against a set-based reference.
+     *
+     * @param previous Snapshot taken from the earlier build
+     * @param current  Snapshot taken from the later build
+     */
+    private static void checkSnapshots(AssociationSnapshot previous, AssociationSnapshot current) {
+        AssociationDiff sequential = AssociationDiff.compare(previous, current, 1);
+
+        // Every partitioned run must produce exactly the same keys as the sequential run
+        for (int partitionCount : PARTITION_COUNTS) {
+            AssociationDiff partitioned = AssociationDiff.compare(previous, current, partitionCount);
+            if (!Arrays.equals(sequential.getAddedEdgeKeys(), partitioned.getAddedEdgeKeys()) ||
+                    !Arrays.equals(sequential.getRemovedEdgeKeys(), partitioned.getRemovedEdgeKeys())) {
+                throw new IllegalStateException("Partitioned diff (" + partitionCount + " partitions) " +
+                        partitioned + " does not match sequential diff " + sequential);
+            }
+        }
+
+        // The public entry point must agree as well, whichever path it picks
+        AssociationDiff automatic = AssociationDiff.compare(previous, current);
+        if (!Arrays.equals(sequential.getAddedEdgeKeys(), automatic.getAddedEdgeKeys()) ||
+                !Arrays.equals(sequential.getRemovedEdgeKeys(), automatic.getRemovedEdgeKeys())) {
+            throw new IllegalStateException("Diff " + automatic + " does not match sequential diff " + sequential);
+        }
+
+        // Verify small snapshots against a straightforward set difference
+        if (Math.max(previous.size(), current.size()) <= MAX_REFERENCE_SIZE) {
+            long[] expectedAdded = difference(current.getEdgeKeys(), previous.getEdgeKeys());
+            long[] expectedRemoved = difference(previous.getEdgeKeys(), current.getEdgeKeys());
+            if (!Arrays.equals(expectedAdded, sequential.getAddedEdgeKeys()) ||
+                    !Arrays.equals(expectedRemoved, sequential.getRemovedEdgeKeys())) {
+                throw new IllegalStateException("Sequential diff " + sequential + " does not match the reference");
+            }
+        }
+    }
+
+    /**
+     * Returns the sorted keys that are in the first array but not in the second array.
+     *
+     * @param keys         Keys to keep
+     * @param excludedKeys Keys to drop
+     */
+    private static long[] difference(long[] keys, long[] excludedKeys) {
+        TreeSet<Long> result = new TreeSet<>();
+        for (long key : keys) {
+            result.add(key);
+        }
+        for (long key : excludedKeys) {
+            result.remove(key);
+        }
+        return result.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    /**
+     * Returns random edge keys spread over the given number of students, including negative student IDs.
+     *
+     * @param random       Source of randomness
+     * @param size         Number of edge keys to create
+     * @param studentCount Number of distinct student IDs to draw from
+     */
+    private static long[] createEdgeKeys(Random random, int size, int studentCount) {
+        int firstStudentId = -studentCount / 2;
+        long[] edgeKeys = new long[size];
+        for (int i = 0; i < size; i++) {
+            edgeKeys[i] = AssociationSnapshot.toEdgeKey(firstStudentId + random.nextInt(studentCount), random.nextInt());
+        }
+        return edgeKeys;
+    }
+
+    /**
+     * Returns a copy of the given edge keys where roughly the given percentage of keys has been replaced.
+     *
+     * @param random        Source of randomness
+     * @param edgeKeys      Edge keys to copy
+     * @param changePercent Percentage of keys to replace with random keys
+     */
+    private static long[] mutateEdgeKeys(Random random, long[] edgeKeys, int changePercent) {
+        long[] mutated = edgeKeys.clone();
+        for (int i = 0; i < mutated.length; i++) {
+            if (random.nextInt(100) < changePercent) {
+                mutated[i] = AssociationSnapshot.toEdgeKey(random.nextInt(), random.nextInt());
+            }
+        }
+        return mutated;
+    }
+
+    /**
+     * Times a diff between two snapshots of the given size that differ in about one percent of their edges.
+     *
+     * @param size Number of edge keys in each snapshot
+     */
+    private static void runBenchmark(int size) {
+        Random random = new Random(100);
+        long[] previousKeys = createEdgeKeys(random, size, Math.max(1, size / 50));
+        AssociationSnapshot current = AssociationSnapshot.fromEdgeKeys(mutateEdgeKeys(random, previousKeys, 1));
+        AssociationSnapshot previous = AssociationSnapshot.fromEdgeKeys(previousKeys);
+
+        long start = System.nanoTime();
+        AssociationDiff diff = AssociationDiff.compare(previous, current);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        System.out.println("Diffed " + previous.size() + " and " + current.size() + " edges in " +
+                elapsedMillis + " ms: " + diff);
+    }
+}
@@ -0,0 +1,148 @@
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Captures the student-professor associations of a build as a sorted array of primitive edge keys.
+ * Each edge key packs a student ID into the upper 32 bits and a professor ID into the lower 32 bits,
+ * so two snapshots can be compared with a linear merge instead of walking every member's map.
+ */
+public final class AssociationSnapshot {
+
+    /**
+     * Sorted, distinct edge keys describing every student-professor association in the snapshot
+     */
+    private final long[] edgeKeys;
+
+    /**
+     * Creates a snapshot around the given edge keys.
+     *
+     * @param edgeKeys Sorted, distinct edge keys
+     */
+    private AssociationSnapshot(long[] edgeKeys) {
+        this.edgeKeys = edgeKeys;
+    }
+
+    /**
+     * Returns a snapshot of the professor associations currently held by the given students.
+     *
+     * @param students Students whose professor associations should be captured
+     */
+    public static AssociationSnapshot fromStudents(List<Student> students) {
+
+        // Run a null check on the students collection
+        if (students == null) {
+            throw new IllegalArgumentException("Cannot create an association snapshot from a null students list");
+        }
+
+        // Size the edge key array up front so that it is only allocated once
+        int edgeCount = 0;
+        for (Student student : students) {
+            edgeCount += student.getProfessorIds().size();
+        }
+
+        // Pack each student-professor association into an edge key
+        long[] edgeKeys = new long[edgeCount];
+        int index = 0;
+        for (Student student : students) {
+            for (int professorId : student.getProfessorIds()) {
+                edgeKeys[index++] = toEdgeKey(student.getId(), professorId);
+            }
+        }
+
+        // The edge key array was allocated here, so it can be sorted in place and kept by the snapshot
+        return fromOwnedEdgeKeys(edgeKeys);
+    }
+
+    /**
+     * Returns a snapshot containing the given edge keys.
+     * Note: the array is copied, so later changes to it do not affect the snapshot. Duplicate edge keys are dropped.
+     *
+     * @param edgeKeys Edge keys created with {@link #toEdgeKey(int, int)}
+     */
+    public static AssociationSnapshot fromEdgeKeys(long[] edgeKeys) {
+
+        // Run a null check on the edge keys array
+        if (edgeKeys == null) {
+            throw new IllegalArgumentException("Cannot create an association snapshot from a null edge key array");
+        }
+
+        // Copy the caller's array so that the snapshot cannot be changed from the outside
+        return fromOwnedEdgeKeys(edgeKeys.clone());
+    }
+
+    /**
+     * Returns a snapshot that takes ownership of the given edge keys.
+     * Note: the array is sorted in place and may become the snapshot's backing store.
+     *
+     * @param edgeKeys Edge keys that no other code holds a reference to
+     */
+    private static AssociationSnapshot fromOwnedEdgeKeys(long[] edgeKeys) {
+
+        // Sort the edge keys so that snapshots can be merged in a single linear pass
+        Arrays.parallelSort(edgeKeys);
+
+        // Compact the sorted edge keys so that each association appears only once
+        int distinctCount = 0;
+        for (int i = 0; i < edgeKeys.length; i++) {
+            if (i == 0 || edgeKeys[i] != edgeKeys[i - 1]) {
+                edgeKeys[distinctCount++] = edgeKeys[i];
+            }
+        }
+
+        return new AssociationSnapshot(
+                distinctCount == edgeKeys.length ? edgeKeys : Arrays.copyOf(edgeKeys, distinctCount));
+    }
+
+    /**
+     * Returns the edge key for the association between the given student and professor.
+     *
+     * @param studentId   ID of the student
+     * @param professorId ID of the professor
+     */
+    public static long toEdgeKey(int studentId, int professorId) {
+        return ((long) studentId << 32) | (professorId & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Returns the student ID packed into the given edge key.
+     *
+     * @param edgeKey Edge key created with {@link #toEdgeKey(int, int)}
+     */
+    public static int getStudentId(long edgeKey) {
+        return (int) (edgeKey >> 32);
+    }
+
+    /**
+     * Returns the professor ID packed into the given edge key.
+     *
+     * @param edgeKey Edge key created with {@link #toEdgeKey(int, int)}
+     */
+    public static int getProfessorId(long edgeKey) {
+        return (int) edgeKey;
+    }
+
+    /**
+     * Returns the number of associations in the snapshot.
+     */
+    public int size() {
+        return edgeKeys.length;
+    }
+
+    /**
+     * Returns the sorted, distinct edge keys backing the snapshot.
+     * Note: the array is shared with the snapshot and must not be modified.
+     */
+    long[] getEdgeKeys() {
+        return edgeKeys;
+    }
+
+    /**
+     * Returns a string representation of the snapshot
+     */
+    @Override
+    public String toString() {
+        return "AssociationSnapshot{" +
+                "size=" + edgeKeys.length +
+                '}';
+    }
+}
@@ -27,6 +27,34 @@ public class Main {
 
         // Create student-professor associations based on common disciplines
         createStudentProfessorAssociations(students, professors);
+
+        // Take a snapshot of the associations so that later builds can be compared against it
+        AssociationSnapshot previousSnapshot = AssociationSnapshot.fromStudents(students);
+
+        // Create a second, independent set of students and professors for the next build
+        AtomicInteger nextId = new AtomicInteger(1);
+        List<Student> nextStudents = createStudents(nextId);
+        List<Professor> nextProfessors = createProfessors(nextId);
+
+        // Before the next build, the second student drops the physics minor and
+        // the third student picks up a computer science minor
+        nextStudents.get(1).getMinors().remove(Enums.Discipline.PHYSICS);
+        nextStudents.get(2).getMinors().add(Enums.Discipline.COMPUTER_SCIENCE);
+
+        // Run the next build and take a snapshot of its associations
+        createStudentProfessorAssociations(nextStudents, nextProfessors);
+        AssociationSnapshot currentSnapshot = AssociationSnapshot.fromStudents(nextStudents);
+
+        // Report the associations that changed between the two builds
+        AssociationDiff diff = AssociationDiff.compare(previousSnapshot, currentSnapshot);
+        for (long edgeKey : diff.getAddedEdgeKeys()) {
+            System.out.println("Added association: student " + AssociationSnapshot.getStudentId(edgeKey) +
+                    " -> professor " + AssociationSnapshot.getProfessorId(edgeKey));
+        }
+        for (long edgeKey : diff.getRemovedEdgeKeys()) {
+            System.out.println("Removed association: student " + AssociationSnapshot.getStudentId(edgeKey) +
+                    " -> professor " + AssociationSnapshot.getProfessorId(edgeKey));
+        }
     }
 
     /**
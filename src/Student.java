@@ -65,6 +65,13 @@ public class Student extends UniversityMember {
         return minors;
     }
 
+    /**
+     * Returns the university IDs of the professors that are associated with the student.
+     */
+    public Set<Integer> getProfessorIds() {
+        return Collections.unmodifiableSet(professors.keySet());
+    }
+
     /**
      * Adds the related professors to the list that are associated with the student.
      *